@@ -0,0 +1,53 @@
+import random as R
+import sys
+import time
+import requests as req
+from common import run_parallel
+from client import create_client, APP_BASE_URL
+
+ACCOUNTS_COUNT = 256
+POOL_SIZE = 32
+OPERATIONS_PER_WORKER = 1000
+BALANCE_READS_PERCENT = 80
+BALANCE = 1000000
+
+def run_scenario(app_client, label):
+    accounts = [app_client.create_account(BALANCE) for _ in range(ACCOUNTS_COUNT)]
+    workers = [(request, (accounts,)) for _ in range(POOL_SIZE)]
+    started_at = time.time()
+    results = [r.get() for r in run_parallel(*workers)]
+    elapsed = time.time() - started_at
+    latencies = sorted(latency for worker_latencies, _ in results for latency in worker_latencies)
+    rejected = sum(worker_rejected for _, worker_rejected in results)
+    print('%s: requests=%d, throughput=%.0f ops/s, p50=%.2f ms, p99=%.2f ms, p99.9=%.2f ms, rejected=%d' % (
+        label, len(latencies), len(latencies) / elapsed,
+        percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 0.999), rejected))
+
+def request(accounts):
+    session = req.Session()
+    latencies = []
+    rejected = 0
+    for _ in range(OPERATIONS_PER_WORKER):
+        started_at = time.perf_counter()
+        if R.randrange(100) < BALANCE_READS_PERCENT:
+            res = session.get(APP_BASE_URL + '/account/{}/balance'.format(R.choice(accounts)))
+        else:
+            src_account, dst_account = R.sample(accounts, 2)
+            res = session.post(
+                url=APP_BASE_URL + '/transfer',
+                json={
+                    'source': src_account,
+                    'destination': dst_account,
+                    'amount': {'amount': '1.00', 'currency': 'USD'}
+                }
+            )
+        latencies.append((time.perf_counter() - started_at) * 1000)
+        if res.status_code == 503:
+            rejected += 1
+    return latencies, rejected
+
+def percentile(values, p):
+    return values[min(len(values) - 1, int(len(values) * p))]
+
+if __name__ == '__main__':
+    run_scenario(create_client(), sys.argv[1] if len(sys.argv) > 1 else 'executor')
@@ -0,0 +1,58 @@
+import os
+import random as R
+import sys
+import time
+import requests as req
+from common import run_parallel
+from client import create_client, APP_BASE_URL
+
+HOT_ACCOUNTS_COUNTS = [1, 8, 64]
+POOL_SIZE = 16
+TRANSFERS_PER_WORKER = 2000
+BALANCE = 1000000
+WAIT_TIMEOUT = os.environ.get('WAIT_TIMEOUT')
+
+def run_scenario(app_client, hot_accounts_count):
+    hot_accounts = [app_client.create_account(BALANCE) for _ in range(hot_accounts_count)]
+    cold_accounts = [app_client.create_account(BALANCE) for _ in range(POOL_SIZE)]
+    workers = [(transfer, (hot_accounts, cold_accounts[i])) for i in range(POOL_SIZE)]
+    started_at = time.time()
+    results = [r.get() for r in run_parallel(*workers)]
+    elapsed = time.time() - started_at
+    latencies = sorted(latency for worker_latencies, _ in results for latency in worker_latencies)
+    busy_count = sum(busy for _, busy in results)
+    print('hot=%d: transfers=%d, throughput=%.0f ops/s, p50=%.2f ms, p99=%.2f ms, busy=%d' % (
+        hot_accounts_count, len(latencies), len(latencies) / elapsed,
+        percentile(latencies, 0.50), percentile(latencies, 0.99), busy_count))
+
+def transfer(hot_accounts, cold_account):
+    session = req.Session()
+    latencies = []
+    busy_count = 0
+    for _ in range(TRANSFERS_PER_WORKER):
+        src_account = R.choice(hot_accounts)
+        dst_account = cold_account if len(hot_accounts) == 1 else R.choice([a for a in hot_accounts if a != src_account])
+        if R.random() < 0.5:
+            src_account, dst_account = dst_account, src_account
+        started_at = time.perf_counter()
+        request = {
+            'source': src_account,
+            'destination': dst_account,
+            'amount': {'amount': '1.00', 'currency': 'USD'}
+        }
+        if WAIT_TIMEOUT is not None:
+            request['waitTimeout'] = int(WAIT_TIMEOUT)
+        res = session.post(url=APP_BASE_URL + '/transfer', json=request)
+        latencies.append((time.perf_counter() - started_at) * 1000)
+        if res.status_code == 503:
+            busy_count += 1
+    return latencies, busy_count
+
+def percentile(values, p):
+    return values[min(len(values) - 1, int(len(values) * p))]
+
+if __name__ == '__main__':
+    app_client = create_client()
+    counts = [int(arg) for arg in sys.argv[1:]] or HOT_ACCOUNTS_COUNTS
+    for hot_accounts_count in counts:
+        run_scenario(app_client, hot_accounts_count)
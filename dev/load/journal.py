@@ -0,0 +1,45 @@
+import random as R
+import sys
+import time
+import requests as req
+from common import run_parallel
+from client import create_client, APP_BASE_URL
+
+ACCOUNTS_COUNT = 256
+POOL_SIZE = 32
+OPERATIONS_PER_WORKER = 1000
+BALANCE = 1000000
+
+def run_scenario(app_client, label):
+    accounts = [app_client.create_account(BALANCE) for _ in range(ACCOUNTS_COUNT)]
+    workers = [(transfer, (accounts,)) for _ in range(POOL_SIZE)]
+    started_at = time.time()
+    results = [r.get() for r in run_parallel(*workers)]
+    elapsed = time.time() - started_at
+    latencies = sorted(latency for worker_latencies in results for latency in worker_latencies)
+    print('%s: transfers=%d, throughput=%.0f ops/s, p50=%.2f ms, p99=%.2f ms' % (
+        label, len(latencies), len(latencies) / elapsed,
+        percentile(latencies, 0.50), percentile(latencies, 0.99)))
+
+def transfer(accounts):
+    session = req.Session()
+    latencies = []
+    for _ in range(OPERATIONS_PER_WORKER):
+        src_account, dst_account = R.sample(accounts, 2)
+        started_at = time.perf_counter()
+        session.post(
+            url=APP_BASE_URL + '/transfer',
+            json={
+                'source': src_account,
+                'destination': dst_account,
+                'amount': {'amount': '1.00', 'currency': 'USD'}
+            }
+        )
+        latencies.append((time.perf_counter() - started_at) * 1000)
+    return latencies
+
+def percentile(values, p):
+    return values[min(len(values) - 1, int(len(values) * p))]
+
+if __name__ == '__main__':
+    run_scenario(create_client(), sys.argv[1] if len(sys.argv) > 1 else 'journal')
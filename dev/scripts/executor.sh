@@ -0,0 +1,7 @@
+for MODE in ${@:-POOL BOUNDED_POOL VIRTUAL_THREADS DIRECT}; do
+    sleep infinity | java -jar build/libs/bank-1.0.0-all.jar --command-execution $MODE > /dev/null 2>&1 &
+    until curl -s -o /dev/null http://localhost:18080/bank/api/account/1/balance; do sleep 0.5; done
+    python3 dev/load/executor.py "$MODE"
+    pkill -f bank-1.0.0-all.jar
+    wait
+done
@@ -0,0 +1 @@
+python3 dev/load/hot.py "$@"
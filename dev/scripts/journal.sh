@@ -0,0 +1,10 @@
+JOURNAL_PATH=$(mktemp -d)/journal.log
+for POLICY in ${@:-NONE PER_OPERATION GROUP_COMMIT ASYNC}; do
+    rm -f "$JOURNAL_PATH"
+    if [ "$POLICY" = "NONE" ]; then JOURNAL_ARGS=""; else JOURNAL_ARGS="--journal-path $JOURNAL_PATH --journal-sync $POLICY"; fi
+    sleep infinity | java -jar build/libs/bank-1.0.0-all.jar $JOURNAL_ARGS > /dev/null 2>&1 &
+    until curl -s -o /dev/null http://localhost:18080/bank/api/account/1/balance; do sleep 0.5; done
+    python3 dev/load/journal.py "$POLICY"
+    pkill -f bank-1.0.0-all.jar
+    wait
+done